@@ -1,8 +1,11 @@
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 public class RMIT_Sudoku_Solver {
     private static final int GRID_SIZE = 9;
+    // Largest grid the size-independent solvers accept; candidate sets are int bitmasks
+    private static final int MAX_GRID_SIZE = 25;
     private static final int SIZE = 3;
     private static final int CONSTRAINTS = 4;
     private static final int COLS = GRID_SIZE * GRID_SIZE * CONSTRAINTS;
@@ -19,26 +22,30 @@ public class RMIT_Sudoku_Solver {
     // Basic backtracking solver counter
     private int basicBacktrackingCalls = 0;
 
-    // Main solving method as required
-    public int[][] solve(int[][] puzzle, String method) {
-        // Try the bit manipulation solver
+    // Conflict-directed backjumping solver counters
+    private int cbjCalls = 0;
+    private int cbjBackjumps = 0;
+    private int cbjNogoodsLearned = 0;
+    private int cbjNogoodPrunes = 0;
 
-        int[][] result;
+    // CDCL SAT solver counters
+    private int satDecisions = 0;
+    private int satPropagations = 0;
+    private int satConflicts = 0;
+    private int satRestarts = 0;
 
-        solveBitManipulation(puzzle);
-        if (method == "recursiveBacktracking") {
-            result = solveBasicBacktracking(puzzle);
-        } else if (method == "bitManipulation") {
-            result = solveBitManipulation(puzzle);
-        } else if (method == "dancingLinks") {
-            result = solveDLX(puzzle);
-        }
+    // Node budget shared by all solvers; once a solver's counter passes it the solve
+    // gives up and budgetExceeded is set (used by the batch scheduler)
+    private long nodeBudget = Long.MAX_VALUE;
+    private boolean budgetExceeded = false;
 
-        else {
+    // Main solving method as required
+    public int[][] solve(int[][] puzzle, String method) {
+        if (!supports(method, puzzle.length)) {
             System.out.println("Invalid method");
             return null;
         }
-        // If that fails, try the DLX solver
+        int[][] result = runSolver(puzzle, method);
         if (result == null) {
             System.out.println("Failed to solve puzzle");
             return null;
@@ -46,10 +53,130 @@ public class RMIT_Sudoku_Solver {
         return result;
     }
 
-    // Method to evaluate and compare all three solvers
+    // The bit manipulation, DLX and basic backtracking solvers only handle 9x9 grids
+    private static boolean supports(String method, int size) {
+        switch (method) {
+            case "recursiveBacktracking":
+            case "bitManipulation":
+            case "dancingLinks":
+                return size == GRID_SIZE;
+            case "conflictBackjumping":
+            case "cdclSat":
+                return size <= MAX_GRID_SIZE;
+            default:
+                return false;
+        }
+    }
+
+    private int[][] runSolver(int[][] puzzle, String method) {
+        switch (method) {
+            case "recursiveBacktracking":
+                return solveBasicBacktracking(puzzle);
+            case "bitManipulation":
+                return solveBitManipulation(puzzle);
+            case "dancingLinks":
+                return solveDLX(puzzle);
+            case "conflictBackjumping":
+                return solveCBJ(puzzle);
+            case "cdclSat":
+                return solveSAT(puzzle);
+            default:
+                throw new IllegalArgumentException("Invalid method: " + method);
+        }
+    }
+
+    // Search nodes used by the last run of a solver (decisions for SAT)
+    private long nodeCount(String method) {
+        switch (method) {
+            case "recursiveBacktracking":
+                return basicBacktrackingCalls;
+            case "bitManipulation":
+                return bitManipulationCalls;
+            case "dancingLinks":
+                return dlxCalls;
+            case "conflictBackjumping":
+                return cbjCalls;
+            case "cdclSat":
+                return satDecisions;
+            default:
+                throw new IllegalArgumentException("Invalid method: " + method);
+        }
+    }
+
+    // Runs a solver that gives up after the given number of nodes. Returns null
+    // both when the puzzle has no solution and when budgetExceeded is set.
+    private int[][] solveWithBudget(int[][] puzzle, String method, long budget) {
+        nodeBudget = budget;
+        budgetExceeded = false;
+        try {
+            return runSolver(puzzle, method);
+        } finally {
+            nodeBudget = Long.MAX_VALUE;
+        }
+    }
+
+    private boolean overBudget(long calls) {
+        if (calls <= nodeBudget)
+            return false;
+        budgetExceeded = true;
+        return true;
+    }
+
+    // Method to evaluate and compare all solvers
     public SolverResult solveAndCompare(int[][] puzzle) {
         SolverResult result = new SolverResult();
         Runtime runtime = Runtime.getRuntime(); // Monitor memory
+        long memBefore, startTime, endTime, memAfter;
+
+        // Larger grids can only be compared on the size-independent solvers
+        if (puzzle.length == GRID_SIZE) {
+            solveFixedSize(puzzle, result);
+        }
+
+        // Test conflict-directed backjumping solver
+        runtime.gc();
+        memBefore = runtime.totalMemory() - runtime.freeMemory();
+        startTime = System.nanoTime();
+        int[][] cbjSolution = solveWithBudget(puzzle, "conflictBackjumping", CBJ_COMPARE_BUDGET);
+        endTime = System.nanoTime();
+        memAfter = runtime.totalMemory() - runtime.freeMemory();
+        result.cbjTime = endTime - startTime;
+        result.cbjCalls = cbjCalls;
+        result.cbjBackjumps = cbjBackjumps;
+        result.cbjNogoodsLearned = cbjNogoodsLearned;
+        result.cbjNogoodPrunes = cbjNogoodPrunes;
+        result.cbjSuccess = (cbjSolution != null);
+        result.cbjBudgetExceeded = budgetExceeded;
+        result.cbjMemory = memAfter - memBefore;
+
+        // Test CDCL SAT solver
+        runtime.gc();
+        memBefore = runtime.totalMemory() - runtime.freeMemory();
+        startTime = System.nanoTime();
+        int[][] satSolution = solveWithBudget(puzzle, "cdclSat", SAT_COMPARE_BUDGET);
+        endTime = System.nanoTime();
+        memAfter = runtime.totalMemory() - runtime.freeMemory();
+        result.satTime = endTime - startTime;
+        result.satDecisions = satDecisions;
+        result.satPropagations = satPropagations;
+        result.satConflicts = satConflicts;
+        result.satRestarts = satRestarts;
+        result.satSuccess = (satSolution != null);
+        result.satBudgetExceeded = budgetExceeded;
+        result.satMemory = memAfter - memBefore;
+
+        if (result.solution == null && result.cbjSuccess) {
+            result.solution = cbjSolution;
+        } else if (result.solution == null && result.satSuccess) {
+            result.solution = satSolution;
+        }
+
+        return result;
+    }
+
+    // Runs the three 9x9 solvers and records their metrics
+    private void solveFixedSize(int[][] puzzle, SolverResult result) {
+        Runtime runtime = Runtime.getRuntime();
 
         // Test bit manipulation solver
         runtime.gc(); // JVM run garbage collection to get a clean baseline
@@ -98,8 +225,6 @@ public class RMIT_Sudoku_Solver {
         } else if (result.basicBacktrackingSuccess) {
             result.solution = basicSolution;
         }
-
-        return result;
     }
 
     // Class to hold comparison results
@@ -124,9 +249,29 @@ public class RMIT_Sudoku_Solver {
         public boolean basicBacktrackingSuccess;
         public long basicBacktrackingMemory;
 
+        // Conflict-directed backjumping metrics
+        public long cbjTime;
+        public int cbjCalls;
+        public int cbjBackjumps;
+        public int cbjNogoodsLearned;
+        public int cbjNogoodPrunes;
+        public boolean cbjSuccess;
+        public long cbjMemory;
+        public boolean cbjBudgetExceeded; // gave up after CBJ_COMPARE_BUDGET nodes
+
+        // CDCL SAT metrics
+        public long satTime;
+        public int satDecisions;
+        public int satPropagations;
+        public int satConflicts;
+        public int satRestarts;
+        public boolean satSuccess;
+        public long satMemory;
+        public boolean satBudgetExceeded; // gave up after SAT_COMPARE_BUDGET decisions
+
         // Helper method to check if any solver was successful
         public boolean hasValidSolution() {
-            return bitManipulationSuccess || dlxSuccess || basicBacktrackingSuccess;
+            return bitManipulationSuccess || dlxSuccess || basicBacktrackingSuccess || cbjSuccess || satSuccess;
         }
     }
 
@@ -160,6 +305,8 @@ public class RMIT_Sudoku_Solver {
 
     private boolean backtrackBit(int[][] board, int r, int c) {
         bitManipulationCalls++;
+        if (overBudget(bitManipulationCalls))
+            return false;
         if (r == 9)
             return true;
         if (c == 9)
@@ -273,6 +420,8 @@ public class RMIT_Sudoku_Solver {
 
         boolean search() {
             dlxCalls++;
+            if (overBudget(dlxCalls))
+                return false;
             if (header.right == header)
                 return true;
             ColumnNode col = selectColumn();
@@ -444,6 +593,8 @@ public class RMIT_Sudoku_Solver {
 
     private boolean getSolution(int[][] board) {
         basicBacktrackingCalls++;
+        if (overBudget(basicBacktrackingCalls))
+            return false;
         for (int row = 0; row < GRID_SIZE; row++) {
             for (int column = 0; column < GRID_SIZE; column++) {
                 if (board[row][column] == 0) {
@@ -464,11 +615,1525 @@ public class RMIT_Sudoku_Solver {
         return true;
     }
 
+    // ----------------------------------------
+    // Grid Masks
+    // ----------------------------------------
+
+    // Digits used in every row, column and box of an n^2 x n^2 grid, one bit per
+    // digit, and the cells of each of those units. Used by the backjumping solver
+    // and by the batch scheduler's cost estimate.
+    private static class GridMasks {
+        final int size, box, cells, full;
+        final int[] rowUsed, colUsed, boxUsed;
+        final int[][] units; // cells of every row, column and box
+
+        GridMasks(int size) {
+            this.size = size;
+            box = (int) Math.sqrt(size);
+            cells = size * size;
+            full = (1 << size) - 1;
+            rowUsed = new int[size];
+            colUsed = new int[size];
+            boxUsed = new int[size];
+            units = new int[3 * size][size];
+            for (int u = 0; u < size; u++) {
+                for (int i = 0; i < size; i++) {
+                    units[u][i] = u * size + i;
+                    units[size + u][i] = i * size + u;
+                    units[2 * size + u][i] = ((u / box) * box + i / box) * size + (u % box) * box + i % box;
+                }
+            }
+        }
+
+        int boxOf(int r, int c) {
+            return (r / box) * box + (c / box);
+        }
+
+        void use(int cell, int bit) {
+            int r = cell / size, c = cell % size;
+            rowUsed[r] |= bit;
+            colUsed[c] |= bit;
+            boxUsed[boxOf(r, c)] |= bit;
+        }
+
+        void release(int cell, int bit) {
+            int r = cell / size, c = cell % size;
+            rowUsed[r] &= ~bit;
+            colUsed[c] &= ~bit;
+            boxUsed[boxOf(r, c)] &= ~bit;
+        }
+
+        int candidates(int cell) {
+            int r = cell / size, c = cell % size;
+            return full & ~(rowUsed[r] | colUsed[c] | boxUsed[boxOf(r, c)]);
+        }
+    }
+
+    // ----------------------------------------
+    // Conflict-Directed Backjumping Solver
+    // ----------------------------------------
+
+    // Returned by CBJ.search when the board is complete
+    private static final int SOLVED = -1;
+    // Bounds for the nogood store: how many nogoods are kept and how long they may be
+    private static final int NOGOOD_CAPACITY = 4096;
+    private static final int MAX_NOGOOD_LENGTH = 12;
+    // Nodes solveAndCompare lets the backjumping solver use, so a hard large grid cannot stall a comparison
+    private static final long CBJ_COMPARE_BUDGET = 5_000_000;
+
+    // Works on any n^2 x n^2 grid (9x9, 16x16, 25x25). Every assignment is made at a
+    // search depth; conf[depth] holds the depths of the earlier assignments that caused
+    // values to fail at that depth, so a dead end jumps straight back to the deepest
+    // culprit instead of the previous cell. The culprit assignments are also recorded
+    // as a nogood so the same combination is pruned wherever it shows up again.
+    private class CBJ extends GridMasks {
+        int[] board;
+        int[][] rowDepth, colDepth, boxDepth; // depth that placed a digit in a unit, 0 for givens
+        int[] depthOf; // depth at which each cell was filled, 0 for givens
+        int[] cellAt, digitAt; // assignment made at each depth
+        long[][] conf;
+        NogoodStore nogoods;
+        int failBit, singleCell, singleBit; // filled in by scanUnits
+
+        CBJ(int[][] puzzle) {
+            super(puzzle.length);
+            board = new int[cells];
+            rowDepth = new int[size][size];
+            colDepth = new int[size][size];
+            boxDepth = new int[size][size];
+            for (int i = 0; i < size; i++) {
+                Arrays.fill(rowDepth[i], -1);
+                Arrays.fill(colDepth[i], -1);
+                Arrays.fill(boxDepth[i], -1);
+            }
+            depthOf = new int[cells];
+            cellAt = new int[cells + 1];
+            digitAt = new int[cells + 1];
+            conf = new long[cells + 1][(cells + 64) / 64];
+            nogoods = new NogoodStore(cells, size);
+
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    if (puzzle[r][c] != 0) {
+                        place(r * size + c, puzzle[r][c] - 1, 0);
+                    }
+                }
+            }
+        }
+
+        void place(int cell, int d, int depth) {
+            int r = cell / size, c = cell % size, b = boxOf(r, c);
+            board[cell] = d + 1;
+            depthOf[cell] = depth;
+            use(cell, 1 << d);
+            rowDepth[r][d] = colDepth[c][d] = boxDepth[b][d] = depth;
+        }
+
+        void unplace(int cell) {
+            int r = cell / size, c = cell % size, b = boxOf(r, c);
+            int d = board[cell] - 1;
+            board[cell] = 0;
+            release(cell, 1 << d);
+            rowDepth[r][d] = colDepth[c][d] = boxDepth[b][d] = -1;
+        }
+
+        // Empty cell with the fewest candidates, or -1 when the board is full
+        int selectCell() {
+            int best = -1, min = Integer.MAX_VALUE;
+            for (int cell = 0; cell < cells; cell++) {
+                if (board[cell] != 0)
+                    continue;
+                int count = Integer.bitCount(candidates(cell));
+                if (count < min) {
+                    min = count;
+                    best = cell;
+                    if (count <= 1)
+                        break;
+                }
+            }
+            return best;
+        }
+
+        // Shallowest assignment that rules digit d out of an empty cell (0 for givens)
+        int eliminationReason(int cell, int d) {
+            int r = cell / size, c = cell % size, b = boxOf(r, c);
+            int reason = Integer.MAX_VALUE;
+            if (rowDepth[r][d] >= 0)
+                reason = Math.min(reason, rowDepth[r][d]);
+            if (colDepth[c][d] >= 0)
+                reason = Math.min(reason, colDepth[c][d]);
+            if (boxDepth[b][d] >= 0)
+                reason = Math.min(reason, boxDepth[b][d]);
+            return reason;
+        }
+
+        // Looks for a digit with no place left in some row, column or box, and for a
+        // digit with exactly one place (a hidden single). Returns the unit that failed,
+        // or -1; a hidden single is left in singleCell/singleBit.
+        int scanUnits() {
+            singleCell = -1;
+            for (int u = 0; u < units.length; u++) {
+                int placed = 0, once = 0, twice = 0;
+                for (int cell : units[u]) {
+                    if (board[cell] != 0) {
+                        placed |= 1 << (board[cell] - 1);
+                    } else {
+                        int cand = candidates(cell);
+                        twice |= once & cand;
+                        once |= cand;
+                    }
+                }
+                int missing = full & ~placed & ~once;
+                if (missing != 0) {
+                    failBit = missing & -missing;
+                    return u;
+                }
+                int single = once & ~twice & ~placed;
+                if (single != 0 && singleCell < 0) {
+                    singleBit = single & -single;
+                    for (int cell : units[u]) {
+                        if (board[cell] == 0 && (candidates(cell) & singleBit) != 0)
+                            singleCell = cell;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        // Returns SOLVED, or the depth the search has to jump back to (0 means unsolvable)
+        int search(int depth) {
+            cbjCalls++;
+            if (overBudget(cbjCalls))
+                return 0;
+            int cell = selectCell();
+            if (cell < 0)
+                return SOLVED;
+
+            long[] conflicts = conf[depth];
+            Arrays.fill(conflicts, 0);
+
+            // A digit with no place left in a unit is blamed on the assignments filling
+            // the unit's other cells and on those ruling the digit out of its empty cells
+            int failed = scanUnits();
+            if (failed >= 0) {
+                int d = Integer.numberOfTrailingZeros(failBit);
+                for (int other : units[failed]) {
+                    int reason = board[other] != 0 ? depthOf[other] : eliminationReason(other, d);
+                    if (reason > 0)
+                        setBit(conflicts, reason);
+                }
+                return backjump(depth);
+            }
+
+            // Prefer a hidden single over a cell with several candidates; its other
+            // digits fail at the next node through the unit check above
+            int preferred = 0;
+            if (Integer.bitCount(candidates(cell)) > 1 && singleCell >= 0) {
+                cell = singleCell;
+                preferred = singleBit;
+            }
+            int domain = candidates(cell);
+
+            // Every digit already used by a peer conflicts with the shallowest assignment holding it
+            for (int d = 0; d < size; d++) {
+                if ((domain & (1 << d)) != 0)
+                    continue;
+                int reason = eliminationReason(cell, d);
+                if (reason > 0)
+                    setBit(conflicts, reason);
+            }
+
+            cellAt[depth] = cell;
+            while (domain != 0) {
+                int bit = (domain & preferred) != 0 ? preferred : domain & -domain;
+                domain &= ~bit;
+                int d = Integer.numberOfTrailingZeros(bit);
+
+                int blocking = nogoods.find(cell, bit, board);
+                if (blocking >= 0) {
+                    cbjNogoodPrunes++;
+                    int[] nogoodCells = nogoods.cellsOf[blocking];
+                    for (int other : nogoodCells) {
+                        if (other != cell)
+                            setBit(conflicts, depthOf[other]);
+                    }
+                    continue;
+                }
+
+                digitAt[depth] = d;
+                place(cell, d, depth);
+                int target = search(depth + 1);
+                if (target == SOLVED)
+                    return SOLVED;
+                unplace(cell);
+
+                // A deeper dead end did not involve this assignment, keep unwinding
+                if (target < depth)
+                    return target;
+            }
+            return backjump(depth);
+        }
+
+        // Dead end: learn the culprit assignments and jump to the deepest of them
+        int backjump(int depth) {
+            long[] conflicts = conf[depth];
+            learn(conflicts);
+            int target = highestBit(conflicts);
+            if (target > 0) {
+                clearBit(conflicts, target);
+                long[] back = conf[target];
+                for (int i = 0; i < back.length; i++)
+                    back[i] |= conflicts[i];
+                if (target < depth - 1)
+                    cbjBackjumps++;
+            }
+            return Math.max(target, 0);
+        }
+
+        void learn(long[] conflicts) {
+            int length = 0;
+            for (long word : conflicts)
+                length += Long.bitCount(word);
+            if (length == 0 || length > MAX_NOGOOD_LENGTH)
+                return;
+
+            int[] nogoodCells = new int[length];
+            int[] nogoodBits = new int[length];
+            int k = 0;
+            for (int i = 0; i < conflicts.length; i++) {
+                for (long word = conflicts[i]; word != 0; word &= word - 1) {
+                    int depth = i * 64 + Long.numberOfTrailingZeros(word);
+                    nogoodCells[k] = cellAt[depth];
+                    nogoodBits[k] = 1 << digitAt[depth];
+                    k++;
+                }
+            }
+            nogoods.add(nogoodCells, nogoodBits);
+            cbjNogoodsLearned++;
+        }
+
+        int[][] getSolution() {
+            int[][] result = new int[size][size];
+            for (int cell = 0; cell < cells; cell++) {
+                result[cell / size][cell % size] = board[cell];
+            }
+            return result;
+        }
+    }
+
+    private static void setBit(long[] set, int i) {
+        set[i >> 6] |= 1L << i;
+    }
+
+    private static void clearBit(long[] set, int i) {
+        set[i >> 6] &= ~(1L << i);
+    }
+
+    private static int highestBit(long[] set) {
+        for (int i = set.length - 1; i >= 0; i--) {
+            if (set[i] != 0)
+                return i * 64 + 63 - Long.numberOfLeadingZeros(set[i]);
+        }
+        return -1;
+    }
+
+    // Bounded store of learned nogoods. Each nogood is a tuple of (cell, digit bitmask)
+    // pairs that must never all hold at once. Nogoods are indexed by each of their
+    // (cell, digit) literals, and once the store is full a clock hand evicts the first
+    // nogood that has not pruned anything since the hand last passed it.
+    private static class NogoodStore {
+        int size;
+        int[][] cellsOf, bitsOf;
+        boolean[] referenced;
+        int[][] occurs; // literal (cell * size + digit) -> ids of nogoods containing it
+        int[] occursCount;
+        int count, hand;
+
+        NogoodStore(int cells, int size) {
+            this.size = size;
+            cellsOf = new int[NOGOOD_CAPACITY][];
+            bitsOf = new int[NOGOOD_CAPACITY][];
+            referenced = new boolean[NOGOOD_CAPACITY];
+            occurs = new int[cells * size][];
+            occursCount = new int[cells * size];
+        }
+
+        int literal(int cell, int bit) {
+            return cell * size + Integer.numberOfTrailingZeros(bit);
+        }
+
+        // Id of a nogood that placing bit in cell would complete, or -1
+        int find(int cell, int bit, int[] board) {
+            int lit = literal(cell, bit);
+            int[] ids = occurs[lit];
+            for (int i = 0; i < occursCount[lit]; i++) {
+                int id = ids[i];
+                int[] nogoodCells = cellsOf[id];
+                int[] nogoodBits = bitsOf[id];
+                boolean complete = true;
+                for (int j = 0; j < nogoodCells.length && complete; j++) {
+                    int other = nogoodCells[j];
+                    if (other != cell)
+                        complete = board[other] != 0 && (1 << (board[other] - 1)) == nogoodBits[j];
+                }
+                if (complete) {
+                    referenced[id] = true;
+                    return id;
+                }
+            }
+            return -1;
+        }
+
+        void add(int[] nogoodCells, int[] nogoodBits) {
+            int id;
+            if (count < NOGOOD_CAPACITY) {
+                id = count++;
+            } else {
+                while (referenced[hand]) {
+                    referenced[hand] = false;
+                    hand = (hand + 1) % NOGOOD_CAPACITY;
+                }
+                id = hand;
+                hand = (hand + 1) % NOGOOD_CAPACITY;
+                remove(id);
+            }
+            cellsOf[id] = nogoodCells;
+            bitsOf[id] = nogoodBits;
+            referenced[id] = false;
+            for (int j = 0; j < nogoodCells.length; j++) {
+                int lit = literal(nogoodCells[j], nogoodBits[j]);
+                if (occurs[lit] == null) {
+                    occurs[lit] = new int[4];
+                } else if (occursCount[lit] == occurs[lit].length) {
+                    occurs[lit] = Arrays.copyOf(occurs[lit], occursCount[lit] * 2);
+                }
+                occurs[lit][occursCount[lit]++] = id;
+            }
+        }
+
+        void remove(int id) {
+            for (int j = 0; j < cellsOf[id].length; j++) {
+                int lit = literal(cellsOf[id][j], bitsOf[id][j]);
+                int[] ids = occurs[lit];
+                for (int i = 0; i < occursCount[lit]; i++) {
+                    if (ids[i] == id) {
+                        ids[i] = ids[--occursCount[lit]];
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private int[][] solveCBJ(int[][] puzzle) {
+        cbjCalls = 0;
+        cbjBackjumps = 0;
+        cbjNogoodsLearned = 0;
+        cbjNogoodPrunes = 0;
+        CBJ solver = new CBJ(puzzle);
+        if (solver.search(1) == SOLVED) {
+            return solver.getSolution();
+        }
+        return null;
+    }
+
+    // ----------------------------------------
+    // CDCL SAT Solver
+    // ----------------------------------------
+
+    // Restart interval unit (conflicts), multiplied by the Luby sequence
+    private static final int RESTART_BASE = 100;
+    private static final double VAR_DECAY = 0.95;
+    // Decisions solveAndCompare lets the SAT solver use, matching CBJ_COMPARE_BUDGET
+    private static final long SAT_COMPARE_BUDGET = 5_000_000;
+
+    // Self-contained conflict-driven clause learning solver over a direct encoding:
+    // variable (r, c, d) is true when cell (r, c) holds digit d, every cell and every
+    // row/column/box digit gets an at-least-one clause plus pairwise at-most-one
+    // clauses, and each given is a unit clause. Works on any n^2 x n^2 grid.
+    //
+    // Literals are 2 * var for true and 2 * var + 1 for false. Clauses live back to
+    // back in one int[] arena as [size, lbd, lit0, lit1, ...] (lbd is 0 for problem
+    // clauses, -1 once a learnt clause is deleted) and are referenced by their offset.
+    // lit0 and lit1 are the two watched literals; the implied literal of a reason
+    // clause is always lit0.
+    private class SAT {
+        int box, size, vars;
+        int[] arena;
+        int arenaTop;
+        int[][] watches; // literal -> clauses watching it, visited when it becomes false
+        int[] watchCount;
+
+        byte[] assigns, polarity; // 1 true, -1 false, 0 unassigned
+        int[] level, reason;
+        int[] trail, trailLim;
+        int trailSize, qhead, decisionLevel;
+
+        // VSIDS activity with a binary max-heap of unassigned variables
+        double[] activity;
+        double varInc = 1;
+        int[] heap, heapIndex;
+        int heapSize;
+
+        // Reused buffers for conflict analysis
+        byte[] seen;
+        int[] learnt, levelStamp;
+        int learntSize, stamp;
+
+        int[] learntRefs;
+        int learntCount, maxLearnts;
+        boolean unsat;
+
+        SAT(int[][] puzzle) {
+            size = puzzle.length;
+            box = (int) Math.sqrt(size);
+            vars = size * size * size;
+
+            int pairs = size * (size - 1) / 2;
+            arena = new int[4 * size * size * ((size + 2) + pairs * 4)];
+            watches = new int[2 * vars][];
+            watchCount = new int[2 * vars];
+            assigns = new byte[vars];
+            polarity = new byte[vars];
+            level = new int[vars];
+            reason = new int[vars];
+            trail = new int[vars];
+            trailLim = new int[vars + 1];
+            activity = new double[vars];
+            heap = new int[vars];
+            heapIndex = new int[vars];
+            seen = new byte[vars];
+            learnt = new int[vars];
+            levelStamp = new int[vars + 1];
+            learntRefs = new int[64];
+            maxLearnts = Math.max(1000, vars / 2);
+            Arrays.fill(reason, -1);
+            Arrays.fill(polarity, (byte) 1);
+
+            int[] group = new int[size];
+            for (int a = 0; a < size; a++) {
+                for (int b = 0; b < size; b++) {
+                    // Cell (a, b) holds exactly one digit
+                    for (int d = 0; d < size; d++)
+                        group[d] = var(a, b, d);
+                    exactlyOne(group);
+                    // Digit b appears exactly once in row a, column a and box a
+                    for (int i = 0; i < size; i++)
+                        group[i] = var(a, i, b);
+                    exactlyOne(group);
+                    for (int i = 0; i < size; i++)
+                        group[i] = var(i, a, b);
+                    exactlyOne(group);
+                    int boxRow = (a / box) * box, boxCol = (a % box) * box;
+                    for (int i = 0; i < size; i++)
+                        group[i] = var(boxRow + i / box, boxCol + i % box, b);
+                    exactlyOne(group);
+                }
+            }
+
+            for (int v = 0; v < vars; v++)
+                heapInsert(v);
+
+            // Givens are unit clauses, asserted directly at level 0
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    if (puzzle[r][c] == 0)
+                        continue;
+                    int lit = 2 * var(r, c, puzzle[r][c] - 1);
+                    if (value(lit) == -1)
+                        unsat = true;
+                    else if (value(lit) == 0)
+                        enqueue(lit, -1);
+                }
+            }
+        }
+
+        int var(int r, int c, int d) {
+            return (r * size + c) * size + d;
+        }
+
+        void exactlyOne(int[] group) {
+            int[] lits = new int[size];
+            for (int i = 0; i < size; i++)
+                lits[i] = 2 * group[i];
+            addClause(lits, size, 0);
+            int[] pair = new int[2];
+            for (int i = 0; i < size; i++) {
+                for (int j = i + 1; j < size; j++) {
+                    pair[0] = 2 * group[i] + 1;
+                    pair[1] = 2 * group[j] + 1;
+                    addClause(pair, 2, 0);
+                }
+            }
+        }
+
+        int addClause(int[] lits, int len, int lbd) {
+            if (arenaTop + len + 2 > arena.length)
+                arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaTop + len + 2));
+            int ref = arenaTop;
+            arena[ref] = len;
+            arena[ref + 1] = lbd;
+            System.arraycopy(lits, 0, arena, ref + 2, len);
+            arenaTop += len + 2;
+            watch(lits[0], ref);
+            watch(lits[1], ref);
+            return ref;
+        }
+
+        void watch(int lit, int ref) {
+            int[] ws = watches[lit];
+            if (ws == null) {
+                ws = watches[lit] = new int[8];
+            } else if (watchCount[lit] == ws.length) {
+                ws = watches[lit] = Arrays.copyOf(ws, ws.length * 2);
+            }
+            ws[watchCount[lit]++] = ref;
+        }
+
+        int value(int lit) {
+            int a = assigns[lit >> 1];
+            return (lit & 1) == 0 ? a : -a;
+        }
+
+        void enqueue(int lit, int from) {
+            int v = lit >> 1;
+            assigns[v] = (byte) ((lit & 1) == 0 ? 1 : -1);
+            level[v] = decisionLevel;
+            reason[v] = from;
+            trail[trailSize++] = lit;
+        }
+
+        // Two-watched-literal unit propagation; returns a conflicting clause or -1
+        int propagate() {
+            int conflict = -1;
+            while (qhead < trailSize) {
+                int falseLit = trail[qhead++] ^ 1;
+                satPropagations++;
+                int[] ws = watches[falseLit];
+                int n = watchCount[falseLit];
+                int i = 0, j = 0;
+                while (i < n) {
+                    int ref = ws[i++];
+                    int lits = ref + 2;
+                    if (arena[lits] == falseLit) {
+                        arena[lits] = arena[lits + 1];
+                        arena[lits + 1] = falseLit;
+                    }
+                    int first = arena[lits];
+                    if (value(first) == 1) {
+                        ws[j++] = ref;
+                        continue;
+                    }
+
+                    // Look for a replacement watch among the remaining literals
+                    boolean moved = false;
+                    for (int k = lits + 2, end = lits + arena[ref]; k < end; k++) {
+                        if (value(arena[k]) != -1) {
+                            arena[lits + 1] = arena[k];
+                            arena[k] = falseLit;
+                            watch(arena[lits + 1], ref);
+                            moved = true;
+                            break;
+                        }
+                    }
+                    if (moved)
+                        continue;
+
+                    ws[j++] = ref;
+                    if (value(first) == -1) {
+                        conflict = ref;
+                        qhead = trailSize;
+                        while (i < n)
+                            ws[j++] = ws[i++];
+                    } else {
+                        enqueue(first, ref);
+                    }
+                }
+                watchCount[falseLit] = j;
+            }
+            return conflict;
+        }
+
+        // First-UIP conflict analysis; leaves the learnt clause in learnt[0..learntSize)
+        // with the asserting literal first and returns the backtrack level
+        int analyze(int conflict) {
+            learntSize = 1;
+            int pathCount = 0;
+            int p = -1;
+            int index = trailSize - 1;
+            do {
+                int ref = conflict;
+                for (int k = ref + 2 + (p == -1 ? 0 : 1), end = ref + 2 + arena[ref]; k < end; k++) {
+                    int q = arena[k];
+                    int v = q >> 1;
+                    if (seen[v] == 0 && level[v] > 0) {
+                        bumpActivity(v);
+                        seen[v] = 1;
+                        if (level[v] >= decisionLevel)
+                            pathCount++;
+                        else
+                            learnt[learntSize++] = q;
+                    }
+                }
+                while (seen[trail[index] >> 1] == 0)
+                    index--;
+                p = trail[index--];
+                conflict = reason[p >> 1];
+                seen[p >> 1] = 0;
+                pathCount--;
+            } while (pathCount > 0);
+            learnt[0] = p ^ 1;
+
+            int backtrackLevel = 0;
+            for (int i = 1; i < learntSize; i++) {
+                seen[learnt[i] >> 1] = 0;
+                int lvl = level[learnt[i] >> 1];
+                if (lvl > backtrackLevel) {
+                    // Keep the highest-level literal second so it is watched
+                    backtrackLevel = lvl;
+                    int tmp = learnt[1];
+                    learnt[1] = learnt[i];
+                    learnt[i] = tmp;
+                }
+            }
+            return backtrackLevel;
+        }
+
+        // Number of distinct decision levels in the learnt clause
+        int literalBlockDistance() {
+            stamp++;
+            int lbd = 0;
+            for (int i = 0; i < learntSize; i++) {
+                int lvl = level[learnt[i] >> 1];
+                if (levelStamp[lvl] != stamp) {
+                    levelStamp[lvl] = stamp;
+                    lbd++;
+                }
+            }
+            return lbd;
+        }
+
+        void cancelUntil(int target) {
+            if (decisionLevel <= target)
+                return;
+            for (int i = trailSize - 1; i >= trailLim[target]; i--) {
+                int v = trail[i] >> 1;
+                polarity[v] = assigns[v]; // phase saving
+                assigns[v] = 0;
+                reason[v] = -1;
+                if (heapIndex[v] < 0)
+                    heapInsert(v);
+            }
+            trailSize = qhead = trailLim[target];
+            decisionLevel = target;
+        }
+
+        boolean solve() {
+            if (unsat)
+                return false;
+            int restarts = 0;
+            int conflictsUntilRestart = RESTART_BASE;
+
+            while (true) {
+                int conflict = propagate();
+                if (conflict >= 0) {
+                    satConflicts++;
+                    conflictsUntilRestart--;
+                    if (decisionLevel == 0)
+                        return false;
+
+                    int backtrackLevel = analyze(conflict);
+                    int lbd = literalBlockDistance();
+                    cancelUntil(backtrackLevel);
+                    if (learntSize == 1) {
+                        enqueue(learnt[0], -1);
+                    } else {
+                        int ref = addClause(learnt, learntSize, lbd);
+                        if (learntCount == learntRefs.length)
+                            learntRefs = Arrays.copyOf(learntRefs, learntCount * 2);
+                        learntRefs[learntCount++] = ref;
+                        enqueue(learnt[0], ref);
+                    }
+                    varInc /= VAR_DECAY;
+                } else if (conflictsUntilRestart <= 0) {
+                    cancelUntil(0);
+                    satRestarts++;
+                    restarts++;
+                    conflictsUntilRestart = (int) (luby(restarts) * RESTART_BASE);
+                    if (learntCount >= maxLearnts)
+                        reduceLearnts();
+                } else {
+                    int v = pickBranchVariable();
+                    if (v < 0)
+                        return true;
+                    satDecisions++;
+                    if (overBudget(satDecisions))
+                        return false;
+                    trailLim[decisionLevel++] = trailSize;
+                    enqueue(polarity[v] > 0 ? 2 * v : 2 * v + 1, -1);
+                }
+            }
+        }
+
+        int pickBranchVariable() {
+            while (heapSize > 0) {
+                int v = heapRemoveMax();
+                if (assigns[v] == 0)
+                    return v;
+            }
+            return -1;
+        }
+
+        // Called at level 0 only: drops the worse half of the learnt clauses (by LBD,
+        // keeping glue clauses with LBD <= 2), then compacts the arena and rebuilds the
+        // watch lists in place
+        void reduceLearnts() {
+            long[] order = new long[learntCount];
+            for (int i = 0; i < learntCount; i++)
+                order[i] = ((long) arena[learntRefs[i] + 1] << 32) | learntRefs[i];
+            Arrays.sort(order);
+            for (int i = learntCount / 2; i < learntCount; i++) {
+                int ref = (int) order[i];
+                if (arena[ref + 1] > 2)
+                    arena[ref + 1] = -1;
+            }
+
+            Arrays.fill(watchCount, 0);
+            int top = 0;
+            learntCount = 0;
+            for (int ref = 0; ref < arenaTop;) {
+                int len = arena[ref];
+                int lbd = arena[ref + 1];
+                if (lbd >= 0) {
+                    System.arraycopy(arena, ref, arena, top, len + 2);
+                    watch(arena[top + 2], top);
+                    watch(arena[top + 3], top);
+                    if (lbd > 0)
+                        learntRefs[learntCount++] = top;
+                    top += len + 2;
+                }
+                ref += len + 2;
+            }
+            arenaTop = top;
+            // Only level 0 assignments remain and their reasons are never inspected
+            Arrays.fill(reason, -1);
+            maxLearnts += maxLearnts / 10;
+        }
+
+        void bumpActivity(int v) {
+            activity[v] += varInc;
+            if (activity[v] > 1e100) {
+                for (int i = 0; i < vars; i++)
+                    activity[i] *= 1e-100;
+                varInc *= 1e-100;
+            }
+            if (heapIndex[v] >= 0)
+                heapUp(heapIndex[v]);
+        }
+
+        void heapInsert(int v) {
+            heapIndex[v] = heapSize;
+            heap[heapSize++] = v;
+            heapUp(heapIndex[v]);
+        }
+
+        int heapRemoveMax() {
+            int top = heap[0];
+            heapIndex[top] = -1;
+            heapSize--;
+            if (heapSize > 0) {
+                heap[0] = heap[heapSize];
+                heapIndex[heap[0]] = 0;
+                heapDown(0);
+            }
+            return top;
+        }
+
+        void heapUp(int i) {
+            int v = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) >> 1;
+                if (activity[heap[parent]] >= activity[v])
+                    break;
+                heap[i] = heap[parent];
+                heapIndex[heap[i]] = i;
+                i = parent;
+            }
+            heap[i] = v;
+            heapIndex[v] = i;
+        }
+
+        void heapDown(int i) {
+            int v = heap[i];
+            while (2 * i + 1 < heapSize) {
+                int child = 2 * i + 1;
+                if (child + 1 < heapSize && activity[heap[child + 1]] > activity[heap[child]])
+                    child++;
+                if (activity[heap[child]] <= activity[v])
+                    break;
+                heap[i] = heap[child];
+                heapIndex[heap[i]] = i;
+                i = child;
+            }
+            heap[i] = v;
+            heapIndex[v] = i;
+        }
+
+        int[][] getSolution() {
+            int[][] board = new int[size][size];
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    for (int d = 0; d < size; d++) {
+                        if (assigns[var(r, c, d)] > 0)
+                            board[r][c] = d + 1;
+                    }
+                }
+            }
+            return board;
+        }
+    }
+
+    // Luby restart sequence 1, 1, 2, 1, 1, 2, 4, ... (x is 0-based)
+    private static double luby(int x) {
+        int size = 1, seq = 0;
+        while (size < x + 1) {
+            seq++;
+            size = 2 * size + 1;
+        }
+        while (size - 1 != x) {
+            size = (size - 1) >> 1;
+            seq--;
+            x = x % size;
+        }
+        return Math.pow(2, seq);
+    }
+
+    private int[][] solveSAT(int[][] puzzle) {
+        satDecisions = 0;
+        satPropagations = 0;
+        satConflicts = 0;
+        satRestarts = 0;
+        SAT solver = new SAT(puzzle);
+        if (solver.solve()) {
+            return solver.getSolution();
+        }
+        return null;
+    }
+
+    // ----------------------------------------
+    // Batch Scheduler
+    // ----------------------------------------
+
+    // Nodes a batch solve may use before it is moved to the long lane
+    private static final long BATCH_NODE_BUDGET = 20_000;
+
+    // Cheap features computed before a puzzle is solved, used to order a batch
+    public static class PuzzleCost implements Comparable<PuzzleCost> {
+        public int givens;
+        public int initialCandidates; // sum of candidate counts over the empty cells
+        public int remainingAfterSingles; // empty cells left after a naked/hidden singles pass
+        public double searchBits; // log2 of the product of candidate counts after that pass
+
+        // Shortest expected first: smallest search space, then fewest open cells, then
+        // fewest initial candidates, then most givens
+        @Override
+        public int compareTo(PuzzleCost other) {
+            if (searchBits != other.searchBits)
+                return Double.compare(searchBits, other.searchBits);
+            if (remainingAfterSingles != other.remainingAfterSingles)
+                return Integer.compare(remainingAfterSingles, other.remainingAfterSingles);
+            if (initialCandidates != other.initialCandidates)
+                return Integer.compare(initialCandidates, other.initialCandidates);
+            return Integer.compare(other.givens, givens);
+        }
+    }
+
+    public static PuzzleCost estimateCost(int[][] puzzle) {
+        int size = puzzle.length;
+        GridMasks masks = new GridMasks(size);
+        int[] board = new int[size * size];
+        PuzzleCost cost = new PuzzleCost();
+
+        for (int cell = 0; cell < size * size; cell++) {
+            board[cell] = puzzle[cell / size][cell % size];
+            if (board[cell] != 0) {
+                masks.use(cell, 1 << (board[cell] - 1));
+                cost.givens++;
+            }
+        }
+
+        int[] candidates = new int[size * size];
+        boolean first = true, progress = true;
+        while (progress) {
+            progress = false;
+            for (int cell = 0; cell < size * size; cell++) {
+                if (board[cell] != 0)
+                    continue;
+                candidates[cell] = masks.candidates(cell);
+                if (first)
+                    cost.initialCandidates += Integer.bitCount(candidates[cell]);
+            }
+            first = false;
+
+            // Naked singles, then hidden singles; a single placement restarts the pass
+            int place = -1, digit = 0;
+            for (int cell = 0; cell < size * size && place < 0; cell++) {
+                if (board[cell] == 0 && Integer.bitCount(candidates[cell]) == 1) {
+                    place = cell;
+                    digit = candidates[cell];
+                }
+            }
+            for (int u = 0; u < masks.units.length && place < 0; u++) {
+                for (int d = 0; d < size && place < 0; d++) {
+                    int bit = 1 << d, count = 0, at = -1;
+                    for (int cell : masks.units[u]) {
+                        if (board[cell] == 0 && (candidates[cell] & bit) != 0) {
+                            count++;
+                            at = cell;
+                        }
+                    }
+                    if (count == 1) {
+                        place = at;
+                        digit = bit;
+                    }
+                }
+            }
+            if (place >= 0) {
+                board[place] = Integer.numberOfTrailingZeros(digit) + 1;
+                masks.use(place, digit);
+                progress = true;
+            }
+        }
+
+        for (int cell = 0; cell < size * size; cell++) {
+            if (board[cell] == 0) {
+                cost.remainingAfterSingles++;
+                // An empty candidate set is a contradiction and fails fast, so it adds nothing
+                int count = Integer.bitCount(candidates[cell]);
+                if (count > 1)
+                    cost.searchBits += Math.log(count) / Math.log(2);
+            }
+        }
+        return cost;
+    }
+
+    // Outcome of one puzzle in a batch; times are in nanoseconds
+    public static class BatchResult {
+        public int index;
+        public PuzzleCost cost;
+        public int[][] solution;
+        public boolean longLane; // exceeded the node budget and was re-run on the long lane
+        public long nodes;
+        public long solveTime; // time spent solving, including any abandoned fast-lane attempt
+        public long completionTime; // time from the start of the batch until this puzzle finished
+    }
+
+    // Solves a batch across a worker pool. In FIFO mode puzzles are handed to the pool
+    // in file order. In scheduled mode they are ordered shortest-expected-first by
+    // estimateCost, and a solve that passes the node budget is abandoned and started
+    // again without a budget on a separate long lane, so it stops holding up the
+    // cheap puzzles queued behind it. FIFO mode gets the long lane's threads added to
+    // its pool, so both modes run on the same number of threads.
+    public static class BatchScheduler {
+        private final String method;
+        private final int workers;
+        private final int longWorkers;
+        private final long nodeBudget;
+
+        public BatchScheduler(String method, int workers, long nodeBudget) {
+            if (!supports(method, GRID_SIZE))
+                throw new IllegalArgumentException("Invalid method: " + method);
+            this.method = method;
+            this.workers = workers;
+            this.longWorkers = Math.max(1, workers / 2);
+            this.nodeBudget = nodeBudget;
+        }
+
+        // Threads used by either mode: the fast pool plus the long lane
+        public int threads() {
+            return workers + longWorkers;
+        }
+
+        public List<BatchResult> runFifo(List<int[][]> puzzles) {
+            return run(puzzles, false);
+        }
+
+        public List<BatchResult> runScheduled(List<int[][]> puzzles) {
+            return run(puzzles, true);
+        }
+
+        private List<BatchResult> run(List<int[][]> puzzles, boolean scheduled) {
+            // solveWithBudget skips the size check in solve(), so reject a grid the method cannot handle here
+            for (int i = 0; i < puzzles.size(); i++) {
+                int size = puzzles.get(i).length;
+                if (!supports(method, size))
+                    throw new IllegalArgumentException(
+                            "Puzzle " + (i + 1) + " is " + size + "x" + size + ", not supported by " + method);
+            }
+
+            long batchStart = System.nanoTime();
+            List<BatchResult> results = new ArrayList<>();
+            for (int i = 0; i < puzzles.size(); i++) {
+                BatchResult result = new BatchResult();
+                result.index = i;
+                if (scheduled)
+                    result.cost = estimateCost(puzzles.get(i));
+                results.add(result);
+            }
+
+            List<BatchResult> order = new ArrayList<>(results);
+            if (scheduled)
+                order.sort(Comparator.comparing(r -> r.cost));
+
+            ExecutorService pool = Executors.newFixedThreadPool(scheduled ? workers : workers + longWorkers);
+            ExecutorService longPool = scheduled ? Executors.newFixedThreadPool(longWorkers) : null;
+            ThreadLocal<RMIT_Sudoku_Solver> solvers = ThreadLocal.withInitial(RMIT_Sudoku_Solver::new);
+            CountDownLatch done = new CountDownLatch(puzzles.size());
+
+            for (BatchResult result : order) {
+                int[][] puzzle = puzzles.get(result.index);
+                pool.execute(() -> {
+                    boolean movedToLongLane = false;
+                    try {
+                        RMIT_Sudoku_Solver solver = solvers.get();
+                        long start = System.nanoTime();
+                        result.solution = solver.solveWithBudget(puzzle, method,
+                                scheduled ? nodeBudget : Long.MAX_VALUE);
+                        result.solveTime = System.nanoTime() - start;
+                        result.nodes = solver.nodeCount(method);
+
+                        if (solver.budgetExceeded) {
+                            result.longLane = true;
+                            movedToLongLane = true;
+                            longPool.execute(() -> {
+                                try {
+                                    RMIT_Sudoku_Solver longSolver = solvers.get();
+                                    long longStart = System.nanoTime();
+                                    result.solution = longSolver.solveWithBudget(puzzle, method, Long.MAX_VALUE);
+                                    result.solveTime += System.nanoTime() - longStart;
+                                    result.nodes += longSolver.nodeCount(method);
+                                } finally {
+                                    result.completionTime = System.nanoTime() - batchStart;
+                                    done.countDown();
+                                }
+                            });
+                        }
+                    } finally {
+                        if (!movedToLongLane) {
+                            result.completionTime = System.nanoTime() - batchStart;
+                            done.countDown();
+                        }
+                    }
+                });
+            }
+
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                System.err.println("Batch interrupted");
+            } finally {
+                pool.shutdown();
+                if (longPool != null)
+                    longPool.shutdown();
+            }
+            return results;
+        }
+    }
+
+    private static void printLatencySummary(String label, List<BatchResult> results) {
+        if (results.isEmpty()) {
+            System.out.printf("%-20s | no puzzles\n", label);
+            return;
+        }
+        long[] times = new long[results.size()];
+        double total = 0;
+        for (int i = 0; i < times.length; i++) {
+            times[i] = results.get(i).completionTime;
+            total += times[i];
+        }
+        Arrays.sort(times);
+        // Nearest-rank percentiles
+        long p50 = times[(int) Math.ceil(0.50 * times.length) - 1];
+        long p99 = times[(int) Math.ceil(0.99 * times.length) - 1];
+        System.out.printf("%-20s | %-14.3f | %-14.3f | %-14.3f | %-14.3f\n", label,
+                total / times.length / 1_000_000.0, p50 / 1_000_000.0, p99 / 1_000_000.0,
+                times[times.length - 1] / 1_000_000.0);
+    }
+
+    // Compares FIFO against the scheduler on a shuffled mix of the four bundled data sets
+    private static void runBatchComparison(String method) {
+        List<int[][]> puzzles = new ArrayList<>();
+        for (String dataSet : new String[] { "Easy.txt", "medium.txt", "hard.txt", "extreme.txt" }) {
+            puzzles.addAll(readPuzzlesFromFile(dataSet));
+        }
+        if (puzzles.isEmpty()) {
+            System.out.println("No puzzles loaded, nothing to schedule");
+            return;
+        }
+        Collections.shuffle(puzzles, new Random(42));
+
+        int workers = Runtime.getRuntime().availableProcessors();
+        BatchScheduler scheduler = new BatchScheduler(method, workers, BATCH_NODE_BUDGET);
+
+        // Warm up the JIT so neither run pays for it
+        scheduler.runFifo(puzzles);
+        scheduler.runScheduled(puzzles);
+
+        List<BatchResult> fifo = scheduler.runFifo(puzzles);
+        List<BatchResult> scheduled = scheduler.runScheduled(puzzles);
+
+        System.out.println("Batch of " + puzzles.size() + " shuffled puzzles solved with " + method + " on "
+                + scheduler.threads() + " thread(s), node budget " + BATCH_NODE_BUDGET);
+        System.out.println("=====================================================================================");
+        System.out.printf("%-6s | %-8s | %-10s | %-13s | %-9s | %-5s | %-10s | %-16s | %-16s\n",
+                "Puzzle", "Givens", "Candidates", "After singles", "Est. bits", "Lane", "Nodes", "FIFO done (ms)",
+                "Sched. done (ms)");
+        System.out.println(
+                "-------|----------|------------|---------------|-----------|-------|------------|------------------|-----------------");
+        for (int i = 0; i < puzzles.size(); i++) {
+            BatchResult result = scheduled.get(i);
+            System.out.printf("%-6d | %-8d | %-10d | %-13d | %-9.1f | %-5s | %-10d | %-16.3f | %-16.3f\n",
+                    i + 1, result.cost.givens, result.cost.initialCandidates, result.cost.remainingAfterSingles,
+                    result.cost.searchBits,
+                    result.longLane ? "long" : "fast", result.nodes,
+                    fifo.get(i).completionTime / 1_000_000.0, result.completionTime / 1_000_000.0);
+        }
+
+        System.out.println("\nCompletion latency (ms):");
+        System.out.printf("%-20s | %-14s | %-14s | %-14s | %-14s\n", "Order", "Mean", "p50", "p99", "Max");
+        System.out.println("---------------------|----------------|----------------|----------------|---------------");
+        printLatencySummary("FIFO", fifo);
+        printLatencySummary("Shortest first", scheduled);
+    }
+
+    // ----------------------------------------
+    // Solution Counting
+    // ----------------------------------------
+
+    // log2 of the number of transposition table slots
+    private static final int TABLE_BITS = 20;
+    // Slots per aligned bucket; the last one is the always-replace slot
+    private static final int BUCKET_SLOTS = 4;
+
+    // Result of counting the solutions of a puzzle
+    public static class CountResult {
+        public long solutions;
+        public boolean overflow; // solutions stopped at Long.MAX_VALUE
+        public boolean failed; // counting was interrupted or a worker failed, solutions is incomplete
+        public long nodes;
+        public long tableProbes;
+        public long tableHits;
+        public long time;
+
+        public double hitRate() {
+            return tableProbes == 0 ? 0 : (double) tableHits / tableProbes;
+        }
+    }
+
+    // Fixed-size open-addressed cache of subtree solution counts, shared by the
+    // counting threads without locks. Each slot is three longs: check, count and
+    // work, where check = key ^ count ^ work. A reader only accepts a slot whose
+    // check matches, so a slot overwritten mid-read by another thread is simply a
+    // miss. A key maps to one aligned bucket of BUCKET_SLOTS slots. The first
+    // slots keep the entries that saved the most work (nodes needed to compute the
+    // count); an entry cheaper than all of them goes into the bucket's last slot,
+    // which is always replaced.
+    private static class TranspositionTable {
+        final long[] slots;
+        final int bucketMask;
+
+        TranspositionTable(int bits) {
+            slots = new long[3 << bits];
+            bucketMask = (1 << bits) / BUCKET_SLOTS - 1;
+        }
+
+        int bucket(long key) {
+            return 3 * BUCKET_SLOTS * ((int) key & bucketMask);
+        }
+
+        // Cached count for key, or -1
+        long get(long key) {
+            int bucket = bucket(key);
+            for (int i = 0; i < BUCKET_SLOTS; i++) {
+                int slot = bucket + 3 * i;
+                long count = slots[slot + 1];
+                long work = slots[slot + 2];
+                if (work != 0 && (slots[slot] ^ count ^ work) == key)
+                    return count;
+            }
+            return -1;
+        }
+
+        void put(long key, long count, long work) {
+            int bucket = bucket(key);
+            int victim = -1;
+            long victimWork = Long.MAX_VALUE;
+            for (int i = 0; i < BUCKET_SLOTS - 1; i++) {
+                int slot = bucket + 3 * i;
+                long slotWork = slots[slot + 2];
+                if (slotWork == 0 || (slots[slot] ^ slots[slot + 1] ^ slotWork) == key) {
+                    victim = slot;
+                    victimWork = 0;
+                    break;
+                }
+                if (slotWork < victimWork) {
+                    victimWork = slotWork;
+                    victim = slot;
+                }
+            }
+            if (victimWork > work)
+                victim = bucket + 3 * (BUCKET_SLOTS - 1);
+            slots[victim] = key ^ count ^ work;
+            slots[victim + 1] = count;
+            slots[victim + 2] = work;
+        }
+    }
+
+    // Depth-first solution counter for any n^2 x n^2 grid. The number of ways to
+    // complete a board only depends on the candidate sets of its empty cells, so the
+    // board is hashed by those: a Zobrist key holds one random word per (cell, digit)
+    // candidate that has been eliminated, updated incrementally as digits are placed
+    // and undone. Different assignment orders, and different assignments that leave
+    // the same candidates, share one table entry.
+    private static class SolutionCounter {
+        int size, cells, full;
+        int[][] peers;
+        int[] board, candidates;
+        long[][] zobrist;
+        long hash;
+        TranspositionTable table;
+        // Undo stack of (cell, removed candidate bits)
+        int[] undoCell, undoBits;
+        int undoTop;
+        long nodes, probes, hits;
+
+        SolutionCounter(int[][] puzzle, long[][] zobrist, TranspositionTable table) {
+            size = puzzle.length;
+            int box = (int) Math.sqrt(size);
+            cells = size * size;
+            full = (1 << size) - 1;
+            this.zobrist = zobrist;
+            this.table = table;
+            board = new int[cells];
+            candidates = new int[cells];
+            Arrays.fill(candidates, full);
+            undoCell = new int[cells * size];
+            undoBits = new int[cells * size];
+
+            peers = new int[cells][];
+            for (int cell = 0; cell < cells; cell++) {
+                int r = cell / size, c = cell % size;
+                int boxRow = (r / box) * box, boxCol = (c / box) * box;
+                int[] list = new int[3 * size];
+                int count = 0;
+                for (int other = 0; other < cells; other++) {
+                    int r2 = other / size, c2 = other % size;
+                    boolean sameBox = r2 / box * box == boxRow && c2 / box * box == boxCol;
+                    if (other != cell && (r2 == r || c2 == c || sameBox))
+                        list[count++] = other;
+                }
+                peers[cell] = Arrays.copyOf(list, count);
+            }
+
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    if (puzzle[r][c] != 0)
+                        place(r * size + c, puzzle[r][c] - 1);
+                }
+            }
+            undoTop = 0;
+        }
+
+        void remove(int cell, int bits) {
+            candidates[cell] &= ~bits;
+            undoCell[undoTop] = cell;
+            undoBits[undoTop++] = bits;
+            for (; bits != 0; bits &= bits - 1)
+                hash ^= zobrist[cell][Integer.numberOfTrailingZeros(bits)];
+        }
+
+        void place(int cell, int d) {
+            int bit = 1 << d;
+            board[cell] = d + 1;
+            remove(cell, candidates[cell]);
+            for (int peer : peers[cell]) {
+                if ((candidates[peer] & bit) != 0)
+                    remove(peer, bit);
+            }
+        }
+
+        void undo(int cell, int mark) {
+            board[cell] = 0;
+            while (undoTop > mark) {
+                undoTop--;
+                int changed = undoCell[undoTop];
+                int bits = undoBits[undoTop];
+                candidates[changed] |= bits;
+                for (; bits != 0; bits &= bits - 1)
+                    hash ^= zobrist[changed][Integer.numberOfTrailingZeros(bits)];
+            }
+        }
+
+        // Empty cell with the fewest candidates, -1 when the board is full, or
+        // -2 when an empty cell has no candidates left
+        int selectCell() {
+            int best = -1, min = Integer.MAX_VALUE;
+            for (int cell = 0; cell < cells; cell++) {
+                if (board[cell] != 0)
+                    continue;
+                int count = Integer.bitCount(candidates[cell]);
+                if (count == 0)
+                    return -2;
+                if (count < min) {
+                    min = count;
+                    best = cell;
+                }
+            }
+            return best;
+        }
+
+        // Throws CancellationException once the thread is interrupted, so a cancelled
+        // count stops instead of running on and never stores a partial count in the table
+        long count() {
+            nodes++;
+            if ((nodes & 1023) == 0 && Thread.currentThread().isInterrupted())
+                throw new CancellationException("Solution counting interrupted");
+            int cell = selectCell();
+            if (cell == -1)
+                return 1;
+            if (cell == -2)
+                return 0;
+
+            // Single-candidate cells are forced; only cache real branch points
+            boolean branch = Integer.bitCount(candidates[cell]) > 1 && table != null;
+            long key = hash;
+            if (branch) {
+                probes++;
+                long cached = table.get(key);
+                if (cached >= 0) {
+                    hits++;
+                    return cached;
+                }
+            }
+
+            long nodesBefore = nodes;
+            long total = 0;
+            for (int domain = candidates[cell]; domain != 0; domain &= domain - 1) {
+                int mark = undoTop;
+                place(cell, Integer.numberOfTrailingZeros(domain));
+                total = saturatedAdd(total, count());
+                undo(cell, mark);
+            }
+            if (branch)
+                table.put(key, total, nodes - nodesBefore);
+            return total;
+        }
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    // Counts every solution of a puzzle. The first branching cell's digits are
+    // counted in parallel, all threads sharing one transposition table (pass
+    // useTable = false to count without it for comparison).
+    public static CountResult countSolutions(int[][] puzzle, boolean useTable) {
+        if (puzzle.length > MAX_GRID_SIZE)
+            throw new IllegalArgumentException("Grids larger than " + MAX_GRID_SIZE + "x" + MAX_GRID_SIZE
+                    + " are not supported");
+        CountResult result = new CountResult();
+        long startTime = System.nanoTime();
+        int size = puzzle.length;
+
+        Random random = new Random(size);
+        long[][] zobrist = new long[size * size][size];
+        for (long[] keys : zobrist) {
+            for (int d = 0; d < size; d++)
+                keys[d] = random.nextLong();
+        }
+        TranspositionTable table = useTable ? new TranspositionTable(TABLE_BITS) : null;
+
+        SolutionCounter root = new SolutionCounter(puzzle, zobrist, table);
+        int cell = root.selectCell();
+        if (cell < 0) {
+            result.solutions = cell == -1 ? 1 : 0;
+        } else {
+            List<SolutionCounter> counters = new ArrayList<>();
+            List<Future<Long>> counts = new ArrayList<>();
+            ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            for (int domain = root.candidates[cell]; domain != 0; domain &= domain - 1) {
+                int d = Integer.numberOfTrailingZeros(domain);
+                SolutionCounter counter = new SolutionCounter(puzzle, zobrist, table);
+                counter.place(cell, d);
+                counters.add(counter);
+                counts.add(pool.submit(counter::count));
+            }
+            try {
+                for (Future<Long> count : counts)
+                    result.solutions = saturatedAdd(result.solutions, count.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.failed = true;
+                System.err.println("Solution counting interrupted");
+            } catch (ExecutionException e) {
+                result.failed = true;
+                System.err.println("Solution counting error: " + e.getCause());
+            } finally {
+                if (result.failed)
+                    pool.shutdownNow();
+                else
+                    pool.shutdown();
+            }
+            // A failed count's workers may still be unwinding, so their statistics are not read
+            if (!result.failed) {
+                result.nodes = 1;
+                for (SolutionCounter counter : counters) {
+                    result.nodes += counter.nodes;
+                    result.tableProbes += counter.probes;
+                    result.tableHits += counter.hits;
+                }
+            }
+        }
+        result.overflow = result.solutions == Long.MAX_VALUE;
+        result.time = System.nanoTime() - startTime;
+        return result;
+    }
+
+    private static void runCountSolutions(String dataSet, boolean useTable) {
+        List<int[][]> puzzles = readPuzzlesFromFile(dataSet);
+        System.out.println("Solution counts for " + puzzles.size() + " puzzles from " + dataSet
+                + (useTable ? " (transposition table: " + (1 << TABLE_BITS) + " slots)" : " (no table)"));
+        System.out.println("=====================================================================================");
+        System.out.printf("%-6s | %-20s | %-14s | %-10s | %-12s\n", "Puzzle", "Solutions", "Nodes", "Hit rate",
+                "Time (ms)");
+        System.out.println("-------|----------------------|----------------|------------|-------------");
+        for (int i = 0; i < puzzles.size(); i++) {
+            CountResult result = countSolutions(puzzles.get(i), useTable);
+            String solutions = result.failed ? "failed"
+                    : result.overflow ? "> " + Long.MAX_VALUE : String.valueOf(result.solutions);
+            System.out.printf("%-6d | %-20s | %-14d | %-10.3f | %-12.3f\n", i + 1, solutions, result.nodes,
+                    result.hitRate(), result.time / 1_000_000.0);
+        }
+    }
+
     // ----------------------------------------
     // Main method and file reading
     // ----------------------------------------
 
     public static void main(String[] args) {
+        // Run "java RMIT_Sudoku_Solver batch [method]" to compare FIFO and scheduled batch latency
+        if (args.length > 0 && args[0].equals("batch")) {
+            runBatchComparison(args.length > 1 ? args[1] : "bitManipulation");
+            return;
+        }
+        // Run "java RMIT_Sudoku_Solver count <file> [noTable]" to count every solution of each puzzle
+        if (args.length > 1 && args[0].equals("count")) {
+            runCountSolutions(args[1], !(args.length > 2 && args[2].equals("noTable")));
+            return;
+        }
+
         // Change the SudokuDataSet variable to load different levels of puzzles
         // The files should be in the same directory as this Java file
         String SudokuDataSet = "extreme.txt"; // change level here by changing the file name to easy.txt,
@@ -486,96 +2151,157 @@ public class RMIT_Sudoku_Solver {
         // printBoard(solver.solve(puzzles.get(0), "recursiveBacktracking"));
         // printBoard(solver.solve(puzzles.get(0), "bitManipulation"));
         // printBoard(solver.solve(puzzles.get(0), "dancingLinks"));
+        // printBoard(solver.solve(puzzles.get(0), "conflictBackjumping"));
+        // printBoard(solver.solve(puzzles.get(0), "cdclSat"));
 
         System.out.println("Total puzzles loaded from " + SudokuDataSet + ": " + puzzles.size());
         System.out.println();
 
         int[][] examplePuzzle = puzzles.get(0);
+        // The bit manipulation, DLX and basic backtracking solvers are skipped for grids larger than 9x9
+        boolean standardExample = examplePuzzle.length == GRID_SIZE;
+        boolean standardDataSet = true;
+        for (int[][] puzzle : puzzles) {
+            standardDataSet &= puzzle.length == GRID_SIZE;
+        }
 
         Runtime runtime = Runtime.getRuntime();
 
-        runtime.gc();
-        long memBefore1 = runtime.totalMemory() - runtime.freeMemory();
-        long startTime1 = System.nanoTime();
-        int[][] result1 = solver.solveBitManipulation(examplePuzzle);
-        long endTime1 = System.nanoTime();
-        long memAfter1 = runtime.totalMemory() - runtime.freeMemory();
-        long bitManipulationTime = endTime1 - startTime1;
-        long bitManipulationMemory = memAfter1 - memBefore1;
+        int[][] result1 = null, result2 = null, result3 = null;
+        long bitManipulationTime = 0, bitManipulationMemory = 0;
+        long dlxTime = 0, dlxMemory = 0;
+        long basicBacktrackingTime = 0, basicBacktrackingMemory = 0;
+        if (standardExample) {
+            runtime.gc();
+            long memBefore1 = runtime.totalMemory() - runtime.freeMemory();
+            long startTime1 = System.nanoTime();
+            result1 = solver.solveBitManipulation(examplePuzzle);
+            long endTime1 = System.nanoTime();
+            long memAfter1 = runtime.totalMemory() - runtime.freeMemory();
+            bitManipulationTime = endTime1 - startTime1;
+            bitManipulationMemory = memAfter1 - memBefore1;
+
+            runtime.gc();
+            long memBefore2 = runtime.totalMemory() - runtime.freeMemory();
+            long startTime2 = System.nanoTime();
+            result2 = solver.solveDLX(examplePuzzle);
+            long endTime2 = System.nanoTime();
+            long memAfter2 = runtime.totalMemory() - runtime.freeMemory();
+            dlxTime = endTime2 - startTime2;
+            dlxMemory = memAfter2 - memBefore2;
+
+            runtime.gc();
+            long memBefore3 = runtime.totalMemory() - runtime.freeMemory();
+            long startTime3 = System.nanoTime();
+            result3 = solver.solveBasicBacktracking(examplePuzzle);
+            long endTime3 = System.nanoTime();
+            long memAfter3 = runtime.totalMemory() - runtime.freeMemory();
+            basicBacktrackingTime = endTime3 - startTime3;
+            basicBacktrackingMemory = memAfter3 - memBefore3;
+        }
 
         runtime.gc();
-        long memBefore2 = runtime.totalMemory() - runtime.freeMemory();
-        long startTime2 = System.nanoTime();
-        int[][] result2 = solver.solveDLX(examplePuzzle);
-        long endTime2 = System.nanoTime();
-        long memAfter2 = runtime.totalMemory() - runtime.freeMemory();
-        long dlxTime = endTime2 - startTime2;
-        long dlxMemory = memAfter2 - memBefore2;
+        long memBefore4 = runtime.totalMemory() - runtime.freeMemory();
+        long startTime4 = System.nanoTime();
+        int[][] result4 = solver.solveCBJ(examplePuzzle);
+        long endTime4 = System.nanoTime();
+        long memAfter4 = runtime.totalMemory() - runtime.freeMemory();
+        long cbjTime = endTime4 - startTime4;
+        long cbjMemory = memAfter4 - memBefore4;
 
         runtime.gc();
-        long memBefore3 = runtime.totalMemory() - runtime.freeMemory();
-        long startTime3 = System.nanoTime();
-        int[][] result3 = solver.solveBasicBacktracking(examplePuzzle);
-        long endTime3 = System.nanoTime();
-        long memAfter3 = runtime.totalMemory() - runtime.freeMemory();
-        long basicBacktrackingTime = endTime3 - startTime3;
-        long basicBacktrackingMemory = memAfter3 - memBefore3;
+        long memBefore5 = runtime.totalMemory() - runtime.freeMemory();
+        long startTime5 = System.nanoTime();
+        int[][] result5 = solver.solveSAT(examplePuzzle);
+        long endTime5 = System.nanoTime();
+        long memAfter5 = runtime.totalMemory() - runtime.freeMemory();
+        long satTime = endTime5 - startTime5;
+        long satMemory = memAfter5 - memBefore5;
 
         System.out.println("Example Puzzle:");
         printBoard(examplePuzzle);
 
-        System.out.println("\nBit Manipulation Result:");
-        printBoard(result1);
-        System.out.println("Time taken for Bit Manipulation: " + bitManipulationTime + " nanoseconds");
-        System.out.println("Memory used for Bit Manipulation: " + bitManipulationMemory + " bytes");
+        if (standardExample) {
+            System.out.println("\nBit Manipulation Result:");
+            printBoard(result1);
+            System.out.println("Time taken for Bit Manipulation: " + bitManipulationTime + " nanoseconds");
+            System.out.println("Memory used for Bit Manipulation: " + bitManipulationMemory + " bytes");
+
+            System.out.println("\nDLX Result:");
+            printBoard(result2);
+            System.out.println("Time taken for DLX: " + dlxTime + " nanoseconds");
+            System.out.println("Memory used for DLX: " + dlxMemory + " bytes");
+
+            System.out.println("\nBasic Backtracking Result:");
+            printBoard(result3);
+            System.out.println("Time taken for Basic Backtracking: " + basicBacktrackingTime + " nanoseconds");
+            System.out.println("Memory used for Basic Backtracking: " + basicBacktrackingMemory + " bytes");
+        }
 
-        System.out.println("\nDLX Result:");
-        printBoard(result2);
-        System.out.println("Time taken for DLX: " + dlxTime + " nanoseconds");
-        System.out.println("Memory used for DLX: " + dlxMemory + " bytes");
+        System.out.println("\nConflict-Directed Backjumping Result:");
+        printBoard(result4);
+        System.out.println("Time taken for Backjumping: " + cbjTime + " nanoseconds");
+        System.out.println("Memory used for Backjumping: " + cbjMemory + " bytes");
 
-        System.out.println("\nBasic Backtracking Result:");
-        printBoard(result3);
-        System.out.println("Time taken for Basic Backtracking: " + basicBacktrackingTime + " nanoseconds");
-        System.out.println("Memory used for Basic Backtracking: " + basicBacktrackingMemory + " bytes");
+        System.out.println("\nCDCL SAT Result:");
+        printBoard(result5);
+        System.out.println("Time taken for CDCL SAT: " + satTime + " nanoseconds");
+        System.out.println("Memory used for CDCL SAT: " + satMemory + " bytes");
+        System.out.println("Decisions: " + solver.satDecisions + ", propagations: " + solver.satPropagations
+                + ", conflicts: " + solver.satConflicts);
 
         System.out.println();
 
         System.out.println("Solver timing comparison for " + puzzles.size() + " puzzles from " + SudokuDataSet + ":");
-        System.out
-                .println("===========================================================================================");
-        System.out.printf("%-6s | %-25s | %-25s | %-25s\n",
-                "Puzzle", "Bit Manipulation", "Dancing Links (DLX)", "Basic Backtracking");
         System.out.println(
-                "-------|---------------------------|---------------------------|---------------------------");
-        System.out.printf("%-6s | %-10s %-14s | %-10s %-14s | %-10s %-14s\n",
-                "", "Time (ms)", "Calls", "Time (ms)", "Calls", "Time (ms)", "Calls");
+                "=============================================================================================================================================");
+        System.out.printf("%-6s | %-25s | %-25s | %-25s | %-25s | %-25s\n",
+                "Puzzle", "Bit Manipulation", "Dancing Links (DLX)", "Basic Backtracking", "Backjumping (CBJ)",
+                "CDCL SAT");
         System.out.println(
-                "-------|---------------------------|---------------------------|---------------------------");
+                "-------|---------------------------|---------------------------|---------------------------|---------------------------|---------------------------");
+        System.out.printf("%-6s | %-10s %-14s | %-10s %-14s | %-10s %-14s | %-10s %-14s | %-10s %-14s\n",
+                "", "Time (ms)", "Calls", "Time (ms)", "Calls", "Time (ms)", "Calls", "Time (ms)", "Calls",
+                "Time (ms)", "Decisions");
+        System.out.println(
+                "-------|---------------------------|---------------------------|---------------------------|---------------------------|---------------------------");
 
         for (int count = 0; count < puzzles.size(); count++) {
             int[][] puzzle = puzzles.get(count);
             SolverResult result = solver.solveAndCompare(puzzle);
 
-            if (!result.bitManipulationSuccess)
+            boolean standard = puzzle.length == GRID_SIZE;
+            if (standard && !result.bitManipulationSuccess)
                 System.out.println("Bit failed on puzzle " + (count + 1));
-            if (!result.dlxSuccess)
+            if (standard && !result.dlxSuccess)
                 System.out.println("DLX failed on puzzle " + (count + 1));
-            if (!result.basicBacktrackingSuccess)
+            if (standard && !result.basicBacktrackingSuccess)
                 System.out.println("Backtracking failed on puzzle " + (count + 1));
+            if (result.cbjBudgetExceeded)
+                System.out.println("Backjumping gave up on puzzle " + (count + 1) + " after " + result.cbjCalls + " nodes");
+            else if (!result.cbjSuccess)
+                System.out.println("Backjumping failed on puzzle " + (count + 1));
+            if (result.satBudgetExceeded)
+                System.out.println("SAT gave up on puzzle " + (count + 1) + " after " + result.satDecisions + " decisions");
+            else if (!result.satSuccess)
+                System.out.println("SAT failed on puzzle " + (count + 1));
 
             if (result.solution != null) {
                 double bitTimeMs = result.bitManipulationTime / 1_000_000.0;
                 double dlxTimeMs = result.dlxTime / 1_000_000.0;
                 double basicTimeMs = result.basicBacktrackingTime / 1_000_000.0;
+                double cbjTimeMs = result.cbjTime / 1_000_000.0;
+                double satTimeMs = result.satTime / 1_000_000.0;
 
-                System.out.printf("%-6d | %-10.3f %-14d | %-10.3f %-14d | %-10.3f %-14d\n",
+                System.out.printf("%-6d | %s | %s | %s | %s | %s\n",
                         count + 1,
-                        bitTimeMs, result.bitManipulationCalls,
-                        dlxTimeMs, result.dlxCalls,
-                        basicTimeMs, result.basicBacktrackingCalls);
+                        timeAndCalls(standard, bitTimeMs, result.bitManipulationCalls),
+                        timeAndCalls(standard, dlxTimeMs, result.dlxCalls),
+                        timeAndCalls(standard, basicTimeMs, result.basicBacktrackingCalls),
+                        timeAndCalls(true, cbjTimeMs, result.cbjCalls),
+                        timeAndCalls(true, satTimeMs, result.satDecisions));
             } else {
-                System.out.printf("%-6d | Unsolvable puzzle (all 3 solvers failed)\n", count + 1);
+                System.out.printf("%-6d | Unsolvable puzzle (all 5 solvers failed)\n", count + 1);
             }
 
         }
@@ -585,10 +2311,13 @@ public class RMIT_Sudoku_Solver {
         System.out.println("=======================================================================================");
 
         // Calculate aggregate timing statistics
-        double totalBitTimeMs = 0, totalDlxTimeMs = 0, totalBasicTimeMs = 0;
-        double minBitTime = Double.MAX_VALUE, minDlxTime = Double.MAX_VALUE, minBasicTime = Double.MAX_VALUE;
-        double maxBitTime = 0, maxDlxTime = 0, maxBasicTime = 0;
-        long totalBitMemory = 0, totalDlxMemory = 0, totalBasicMemory = 0;
+        double totalBitTimeMs = 0, totalDlxTimeMs = 0, totalBasicTimeMs = 0, totalCbjTimeMs = 0, totalSatTimeMs = 0;
+        double minBitTime = Double.MAX_VALUE, minDlxTime = Double.MAX_VALUE, minBasicTime = Double.MAX_VALUE,
+                minCbjTime = Double.MAX_VALUE, minSatTime = Double.MAX_VALUE;
+        double maxBitTime = 0, maxDlxTime = 0, maxBasicTime = 0, maxCbjTime = 0, maxSatTime = 0;
+        long totalBitMemory = 0, totalDlxMemory = 0, totalBasicMemory = 0, totalCbjMemory = 0, totalSatMemory = 0;
+        long totalBitCalls = 0, totalDlxCalls = 0, totalBasicCalls = 0, totalCbjCalls = 0, totalSatCalls = 0;
+        long totalSatPropagations = 0, totalSatConflicts = 0;
 
         for (int[][] puzzle : puzzles) {
             SolverResult result = solver.solveAndCompare(puzzle);
@@ -597,115 +2326,206 @@ public class RMIT_Sudoku_Solver {
             double bitTimeMs = result.bitManipulationTime / 1_000_000.0;
             double dlxTimeMs = result.dlxTime / 1_000_000.0;
             double basicTimeMs = result.basicBacktrackingTime / 1_000_000.0;
+            double cbjTimeMs = result.cbjTime / 1_000_000.0;
+            double satTimeMs = result.satTime / 1_000_000.0;
 
             // Update totals
             totalBitTimeMs += bitTimeMs;
             totalDlxTimeMs += dlxTimeMs;
             totalBasicTimeMs += basicTimeMs;
+            totalCbjTimeMs += cbjTimeMs;
+            totalSatTimeMs += satTimeMs;
 
             totalBitMemory += result.bitManipulationMemory;
             totalDlxMemory += result.dlxMemory;
             totalBasicMemory += result.basicBacktrackingMemory;
+            totalCbjMemory += result.cbjMemory;
+            totalSatMemory += result.satMemory;
+
+            totalBitCalls += result.bitManipulationCalls;
+            totalDlxCalls += result.dlxCalls;
+            totalBasicCalls += result.basicBacktrackingCalls;
+            totalCbjCalls += result.cbjCalls;
+            totalSatCalls += result.satDecisions;
+            totalSatPropagations += result.satPropagations;
+            totalSatConflicts += result.satConflicts;
 
             // Update min/max values
             minBitTime = Math.min(minBitTime, bitTimeMs);
             minDlxTime = Math.min(minDlxTime, dlxTimeMs);
             minBasicTime = Math.min(minBasicTime, basicTimeMs);
+            minCbjTime = Math.min(minCbjTime, cbjTimeMs);
+            minSatTime = Math.min(minSatTime, satTimeMs);
 
             maxBitTime = Math.max(maxBitTime, bitTimeMs);
             maxDlxTime = Math.max(maxDlxTime, dlxTimeMs);
             maxBasicTime = Math.max(maxBasicTime, basicTimeMs);
+            maxCbjTime = Math.max(maxCbjTime, cbjTimeMs);
+            maxSatTime = Math.max(maxSatTime, satTimeMs);
         }
 
         int count = puzzles.size();
-        System.out.printf("%-20s | %-20s | %-20s | %-20s\n",
-                "Metric", "Bit Manipulation", "Dancing Links", "Basic Backtracking");
-        System.out.println("---------------------|----------------------|----------------------|-------------------");
-        System.out.printf("%-20s | %-20f | %-20f | %-20f\n",
-                "Average time (ms)", totalBitTimeMs / count, totalDlxTimeMs / count, totalBasicTimeMs / count);
-        System.out.printf("%-20s | %-20f | %-20f | %-20f\n",
-                "Min time (ms)", minBitTime, minDlxTime, minBasicTime);
-        System.out.printf("%-20s | %-20f | %-20f | %-20f\n",
-                "Max time (ms)", maxBitTime, maxDlxTime, maxBasicTime);
-        System.out.printf("%-20s | %-20f | %-20f | %-20f\n",
-                "Total time (ms)", totalBitTimeMs, totalDlxTimeMs, totalBasicTimeMs);
-        System.out.printf("%-20s | %-20d | %-20d | %-20d\n",
-                "Total memory (bytes)", totalBitMemory, totalDlxMemory, totalBasicMemory);
-        System.out.printf("%-20s | %-20d | %-20d | %-20d\n",
-                "Avg memory (bytes)", totalBitMemory / count, totalDlxMemory / count, totalBasicMemory / count);
+        System.out.printf("%-20s | %-20s | %-20s | %-20s | %-20s | %-20s\n",
+                "Metric", "Bit Manipulation", "Dancing Links", "Basic Backtracking", "Backjumping (CBJ)",
+                "CDCL SAT");
+        System.out.println(
+                "---------------------|----------------------|----------------------|----------------------|----------------------|-------------------");
+        // Columns of solvers that were skipped for larger grids show n/a
+        boolean fixed = standardDataSet;
+        System.out.printf("%-20s | %-20s | %-20s | %-20s | %-20s | %-20s\n",
+                "Average time (ms)", metric(fixed, totalBitTimeMs / count), metric(fixed, totalDlxTimeMs / count),
+                metric(fixed, totalBasicTimeMs / count), metric(true, totalCbjTimeMs / count),
+                metric(true, totalSatTimeMs / count));
+        System.out.printf("%-20s | %-20s | %-20s | %-20s | %-20s | %-20s\n",
+                "Min time (ms)", metric(fixed, minBitTime), metric(fixed, minDlxTime), metric(fixed, minBasicTime),
+                metric(true, minCbjTime), metric(true, minSatTime));
+        System.out.printf("%-20s | %-20s | %-20s | %-20s | %-20s | %-20s\n",
+                "Max time (ms)", metric(fixed, maxBitTime), metric(fixed, maxDlxTime), metric(fixed, maxBasicTime),
+                metric(true, maxCbjTime), metric(true, maxSatTime));
+        System.out.printf("%-20s | %-20s | %-20s | %-20s | %-20s | %-20s\n",
+                "Total time (ms)", metric(fixed, totalBitTimeMs), metric(fixed, totalDlxTimeMs),
+                metric(fixed, totalBasicTimeMs), metric(true, totalCbjTimeMs), metric(true, totalSatTimeMs));
+        System.out.printf("%-20s | %-20s | %-20s | %-20s | %-20s | %-20s\n",
+                "Total calls", metric(fixed, totalBitCalls), metric(fixed, totalDlxCalls),
+                metric(fixed, totalBasicCalls), metric(true, totalCbjCalls), metric(true, totalSatCalls));
+        System.out.printf("%-20s | %-20s | %-20s | %-20s | %-20s | %-20s\n",
+                "Total memory (bytes)", metric(fixed, totalBitMemory), metric(fixed, totalDlxMemory),
+                metric(fixed, totalBasicMemory), metric(true, totalCbjMemory), metric(true, totalSatMemory));
+        System.out.printf("%-20s | %-20s | %-20s | %-20s | %-20s | %-20s\n",
+                "Avg memory (bytes)", metric(fixed, totalBitMemory / count), metric(fixed, totalDlxMemory / count),
+                metric(fixed, totalBasicMemory / count), metric(true, totalCbjMemory / count),
+                metric(true, totalSatMemory / count));
+        System.out.printf("\nCDCL SAT totals: %d decisions, %d propagations, %d conflicts\n",
+                totalSatCalls, totalSatPropagations, totalSatConflicts);
 
         // Determine the fastest method
         String fastestMethod;
-        if (totalBitTimeMs <= totalDlxTimeMs && totalBitTimeMs <= totalBasicTimeMs) {
+        double fastestTime = Math.min(totalCbjTimeMs, totalSatTimeMs);
+        if (standardDataSet) {
+            fastestTime = Math.min(fastestTime,
+                    Math.min(Math.min(totalBitTimeMs, totalDlxTimeMs), totalBasicTimeMs));
+        }
+        if (standardDataSet && totalBitTimeMs == fastestTime) {
             fastestMethod = "Bit Manipulation";
-        } else if (totalDlxTimeMs <= totalBitTimeMs && totalDlxTimeMs <= totalBasicTimeMs) {
+        } else if (standardDataSet && totalDlxTimeMs == fastestTime) {
             fastestMethod = "Dancing Links (DLX)";
-        } else {
+        } else if (standardDataSet && totalBasicTimeMs == fastestTime) {
             fastestMethod = "Basic Backtracking";
+        } else if (totalCbjTimeMs == fastestTime) {
+            fastestMethod = "Conflict-Directed Backjumping";
+        } else {
+            fastestMethod = "CDCL SAT";
         }
 
         System.out.println("\nFastest method overall: " + fastestMethod);
 
-        // Show speedup ratios
+        // Show speedup ratios; the 9x9-only solvers are left out when they were skipped
         System.out.println("\nSpeed comparison (higher is better):");
-        System.out.printf("Bit Manipulation vs DLX:          %.2fx\n", totalDlxTimeMs / totalBitTimeMs);
-        System.out.printf("Bit Manipulation vs Backtracking: %.2fx\n", totalBasicTimeMs / totalBitTimeMs);
-        System.out.printf("DLX vs Backtracking:             %.2fx\n", totalBasicTimeMs / totalDlxTimeMs);
+        if (standardDataSet) {
+            System.out.printf("Bit Manipulation vs DLX:          %.2fx\n", totalDlxTimeMs / totalBitTimeMs);
+            System.out.printf("Bit Manipulation vs Backtracking: %.2fx\n", totalBasicTimeMs / totalBitTimeMs);
+            System.out.printf("DLX vs Backtracking:             %.2fx\n", totalBasicTimeMs / totalDlxTimeMs);
+            System.out.printf("Backjumping vs Bit Manipulation: %.2fx\n", totalBitTimeMs / totalCbjTimeMs);
+            System.out.printf("Backjumping vs DLX:              %.2fx\n", totalDlxTimeMs / totalCbjTimeMs);
+            System.out.printf("CDCL SAT vs DLX:                 %.2fx\n", totalDlxTimeMs / totalSatTimeMs);
+        }
+        System.out.printf("CDCL SAT vs Backjumping:         %.2fx\n", totalCbjTimeMs / totalSatTimeMs);
+
+        // Show search effort comparison
+        if (standardDataSet) {
+            System.out.println("\nSearch nodes comparison (higher is better):");
+            System.out.printf("Backjumping vs Bit Manipulation: %.2fx\n", (double) totalBitCalls / totalCbjCalls);
+            System.out.printf("Backjumping vs DLX:              %.2fx\n", (double) totalDlxCalls / totalCbjCalls);
+            System.out.printf("Backjumping vs Backtracking:     %.2fx\n", (double) totalBasicCalls / totalCbjCalls);
+        }
 
         // Show memory comparison
         System.out.println("\nMemory usage comparison (lower is better):");
-        System.out.printf("Bit Manipulation vs DLX:          %.2fx\n", (double) totalDlxMemory / totalBitMemory);
-        System.out.printf("Bit Manipulation vs Backtracking: %.2fx\n", (double) totalBasicMemory / totalBitMemory);
-        System.out.printf("DLX vs Backtracking:             %.2fx\n", (double) totalBasicMemory / totalDlxMemory);
+        if (standardDataSet) {
+            System.out.printf("Bit Manipulation vs DLX:          %.2fx\n", (double) totalDlxMemory / totalBitMemory);
+            System.out.printf("Bit Manipulation vs Backtracking: %.2fx\n", (double) totalBasicMemory / totalBitMemory);
+            System.out.printf("DLX vs Backtracking:             %.2fx\n", (double) totalBasicMemory / totalDlxMemory);
+            System.out.printf("Backjumping vs Bit Manipulation: %.2fx\n", (double) totalBitMemory / totalCbjMemory);
+            System.out.printf("Backjumping vs DLX:              %.2fx\n", (double) totalDlxMemory / totalCbjMemory);
+            System.out.printf("CDCL SAT vs DLX:                 %.2fx\n", (double) totalDlxMemory / totalSatMemory);
+        }
+        System.out.printf("CDCL SAT vs Backjumping:         %.2fx\n", (double) totalCbjMemory / totalSatMemory);
+    }
+
+    // One "Time (ms) Calls" cell of the comparison table, blank for a skipped solver
+    private static String timeAndCalls(boolean ran, double timeMs, long calls) {
+        return ran ? String.format("%-10.3f %-14d", timeMs, calls) : String.format("%-10s %-14s", "n/a", "");
+    }
+
+    private static String metric(boolean ran, double value) {
+        return ran ? String.format("%f", value) : "n/a";
+    }
+
+    private static String metric(boolean ran, long value) {
+        return ran ? String.valueOf(value) : "n/a";
     }
 
     private static void printBoard(int[][] board) {
-        for (int row = 0; row < GRID_SIZE; row++) {
-            if (row % 3 == 0 && row != 0) {
-                System.out.println("---------------------");
+        int size = board.length;
+        int box = (int) Math.sqrt(size);
+        int width = String.valueOf(size).length();
+        // Each value takes width + 1 characters and each box border "| " two more
+        String separator = "-".repeat(size * (width + 1) + (box - 1) * 2 - 1);
+        for (int row = 0; row < size; row++) {
+            if (row % box == 0 && row != 0) {
+                System.out.println(separator);
             }
-            for (int column = 0; column < GRID_SIZE; column++) {
-                if (column % 3 == 0 && column != 0) {
+            for (int column = 0; column < size; column++) {
+                if (column % box == 0 && column != 0) {
                     System.out.print("| ");
                 }
-                System.out.print(board[row][column] + " ");
+                System.out.printf("%" + width + "d ", board[row][column]);
             }
             System.out.println();
         }
     }
 
     private static boolean isValidPuzzle(int[][] puzzle) {
-        boolean[][] rows = new boolean[9][10];
-        boolean[][] cols = new boolean[9][10];
-        boolean[][] boxes = new boolean[9][10];
-
-        for (int r = 0; r < 9; r++) {
-            for (int c = 0; c < 9; c++) {
+        int size = puzzle.length;
+        if (size > MAX_GRID_SIZE)
+            return false; // Too large for the bitmask-based solvers
+        int box = (int) Math.sqrt(size);
+        boolean[][] rows = new boolean[size][size + 1];
+        boolean[][] cols = new boolean[size][size + 1];
+        boolean[][] boxes = new boolean[size][size + 1];
+
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
                 int num = puzzle[r][c];
                 if (num == 0)
                     continue;
-                int box = (r / 3) * 3 + c / 3;
-                if (rows[r][num] || cols[c][num] || boxes[box][num]) {
+                if (num < 0 || num > size)
+                    return false; // Digit out of range for this grid size
+                int b = (r / box) * box + c / box;
+                if (rows[r][num] || cols[c][num] || boxes[b][num]) {
                     return false; // Duplicate found
                 }
-                rows[r][num] = cols[c][num] = boxes[box][num] = true;
+                rows[r][num] = cols[c][num] = boxes[b][num] = true;
             }
         }
         return true;
     }
 
+    // Reads 9x9 puzzles as well as larger n^2 x n^2 grids up to 25x25; the size of
+    // each puzzle is taken from the number of values on its first line
     public static List<int[][]> readPuzzlesFromFile(String filename) {
         List<int[][]> puzzles = new ArrayList<>();
         try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
             String line;
             List<int[]> currentPuzzle = new ArrayList<>();
             int puzzleNumber = 1;
+            int size = 0;
 
             while ((line = br.readLine()) != null) {
                 line = line.trim();
                 if (line.isEmpty()) {
-                    if (currentPuzzle.size() == 9) {
-                        int[][] puzzle = currentPuzzle.toArray(new int[9][9]);
+                    if (size > 0 && currentPuzzle.size() == size) {
+                        int[][] puzzle = currentPuzzle.toArray(new int[size][]);
                         if (isValidPuzzle(puzzle)) {
                             puzzles.add(puzzle);
                         } else {
@@ -713,20 +2533,26 @@ public class RMIT_Sudoku_Solver {
                         }
                     }
                     currentPuzzle.clear();
+                    size = 0;
                     puzzleNumber++;
                     continue;
                 }
 
                 String[] parts = line.split("\\s+");
-                if (parts.length != 9) {
-                    System.err.println("Invalid line (not 9 numbers): " + line);
+                if (currentPuzzle.isEmpty()) {
+                    size = parts.length;
+                }
+                int box = (int) Math.sqrt(size);
+                if (parts.length != size || box * box != size) {
+                    System.err.println("Invalid line (expected " + size + " numbers): " + line);
                     currentPuzzle.clear();
+                    size = 0;
                     puzzleNumber++;
                     continue;
                 }
 
-                int[] row = new int[9];
-                for (int i = 0; i < 9; i++) {
+                int[] row = new int[size];
+                for (int i = 0; i < size; i++) {
                     row[i] = Integer.parseInt(parts[i]);
                 }
 
@@ -734,8 +2560,8 @@ public class RMIT_Sudoku_Solver {
             }
 
             // Check for last puzzle in case no trailing blank line
-            if (currentPuzzle.size() == 9) {
-                int[][] puzzle = currentPuzzle.toArray(new int[9][9]);
+            if (size > 0 && currentPuzzle.size() == size) {
+                int[][] puzzle = currentPuzzle.toArray(new int[size][]);
                 if (isValidPuzzle(puzzle)) {
                     puzzles.add(puzzle);
                 } else {